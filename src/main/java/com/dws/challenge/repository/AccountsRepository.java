@@ -7,6 +7,9 @@ import java.math.BigDecimal;
 
 public interface AccountsRepository {
 
+  /** Qualifier of the backing store that {@link CachingAccountsRepository} decorates. */
+  String STORE = "accountsStore";
+
   void createAccount(Account account) throws DuplicateAccountIdException;
 
   Account getAccount(String accountId);
@@ -0,0 +1,82 @@
+package com.dws.challenge.repository;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.exception.DuplicateAccountIdException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-through cache in front of the backing accounts store, which is whichever
+ * repository carries the {@link AccountsRepository#STORE} qualifier.
+ *
+ * Lookups are served from a bounded Caffeine cache (W-TinyLFU eviction), so frequently
+ * transferred accounts stay resident. Balance updates go to the store first and the
+ * updated account is then written back to the cache. Eviction maintenance runs on the
+ * calling thread, as there are no listeners and the work is a few pointer updates.
+ */
+@Primary
+@Repository
+public class CachingAccountsRepository implements AccountsRepository {
+
+    private final AccountsRepository delegate;
+
+    private final Cache<String, Account> accounts;
+
+    @Autowired
+    public CachingAccountsRepository(@Qualifier(AccountsRepository.STORE) AccountsRepository delegate,
+                                     @Value("${accounts.cache.maximum-size:10000}") long maximumSize) {
+        this.delegate = delegate;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void createAccount(Account account) throws DuplicateAccountIdException {
+        delegate.createAccount(account);
+        accounts.put(account.getAccountId(), account);
+    }
+
+    @Override
+    public Account getAccount(String accountId) {
+        return accounts.get(accountId, delegate::getAccount);
+    }
+
+    @Override
+    public void clearAccounts() {
+        delegate.clearAccounts();
+        accounts.invalidateAll();
+    }
+
+    @Override
+    public void depositAmount(Account toAccount, BigDecimal amount) {
+        delegate.depositAmount(toAccount, amount);
+        accounts.put(toAccount.getAccountId(), toAccount);
+    }
+
+    @Override
+    public void withdrawAmount(Account fromAccount, BigDecimal amount) {
+        delegate.withdrawAmount(fromAccount, amount);
+        accounts.put(fromAccount.getAccountId(), fromAccount);
+    }
+
+    public CacheStats getCacheStats() {
+        return accounts.stats();
+    }
+
+    public long getCachedAccountCount() {
+        accounts.cleanUp();
+        return accounts.estimatedSize();
+    }
+}
@@ -45,8 +45,8 @@ public class AccountsService {
 
     transactWithThreadSafety(accountTo,accountFrom,transaction.getAmount());
 
-    this.notificationService.notifyAboutTransfer(getAccount(transaction.getAccountFromId()), String.format(Constants.DEBIT_NOTIFICATION,transaction.getAmount()));
-    this.notificationService.notifyAboutTransfer(getAccount(transaction.getAccountToId()), String.format(Constants.CREDIT_NOTIFICATION,transaction.getAmount()));
+    this.notificationService.notifyAboutTransfer(accountFrom, String.format(Constants.DEBIT_NOTIFICATION,transaction.getAmount()));
+    this.notificationService.notifyAboutTransfer(accountTo, String.format(Constants.CREDIT_NOTIFICATION,transaction.getAmount()));
   }
 
   private void transactWithThreadSafety (Account accountTo, Account accountFrom, BigDecimal amount) {
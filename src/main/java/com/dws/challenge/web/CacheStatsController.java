@@ -0,0 +1,40 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.repository.CachingAccountsRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/cache")
+@Slf4j
+public class CacheStatsController {
+
+  private final CachingAccountsRepository cachingAccountsRepository;
+
+  @Autowired
+  public CacheStatsController(CachingAccountsRepository cachingAccountsRepository) {
+    this.cachingAccountsRepository = cachingAccountsRepository;
+  }
+
+  @GetMapping(path = "/accounts")
+  public Map<String, Object> getAccountsCacheStats() {
+    CacheStats stats = this.cachingAccountsRepository.getCacheStats();
+    log.info("Accounts cache stats {}", stats);
+
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("size", this.cachingAccountsRepository.getCachedAccountCount());
+    response.put("hitCount", stats.hitCount());
+    response.put("missCount", stats.missCount());
+    response.put("hitRate", stats.hitRate());
+    response.put("evictionCount", stats.evictionCount());
+    return response;
+  }
+
+}
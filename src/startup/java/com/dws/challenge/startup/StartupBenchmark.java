@@ -0,0 +1,305 @@
+package com.dws.challenge.startup;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launches ChallengeApplication in a child JVM and measures the time from process start to the
+ * first successful transfer, plus the resident memory of the process at that point.
+ *
+ * <p>{@code train <archive> <classpath>} runs the fast-start profile once and dumps a CDS archive.
+ * <p>{@code measure <archive> <classpath> <report> <budget> <runs>} measures the default and the
+ * fast-start launch, writes the medians to the report and fails if the fast-start launch exceeds
+ * the budget.
+ *
+ * <p>Budget keys are {@code <launch>.<metric>.max} for an absolute limit and
+ * {@code <launch>.<metric>.maxRatioToDefault} for a limit relative to the default launch of the
+ * same run. Default and fast-start launches alternate so that drift in host load affects both.
+ * CDS needs JDK 13 or newer; without an archive the fast-start launch is still measured, but its
+ * ratio limits are skipped because they are calibrated for a launch with CDS.
+ */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.dws.challenge.ChallengeApplication";
+
+    private static final String FASTSTART_PROFILE = "--spring.profiles.active=faststart";
+
+    private static final String DEFAULT_LAUNCH = "default";
+
+    private static final String FASTSTART_LAUNCH = "faststart";
+
+    private static final String TIME_TO_FIRST_TRANSFER = "timeToFirstTransferMillis";
+
+    private static final String RESIDENT_MEMORY = "residentMemoryKb";
+
+    private static final String MAX = "max";
+
+    private static final String MAX_RATIO_TO_DEFAULT = "maxRatioToDefault";
+
+    private static final long UNMEASURED = -1;
+
+    private static final int CDS_DYNAMIC_ARCHIVE_JDK = 13;
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark();
+        if (args.length == 3 && "train".equals(args[0])) {
+            benchmark.train(Paths.get(args[1]), args[2]);
+        } else if (args.length == 6 && "measure".equals(args[0])) {
+            boolean withinBudget = benchmark.measure(Paths.get(args[1]), args[2], Paths.get(args[3]),
+                    Paths.get(args[4]), Integer.parseInt(args[5]));
+            if (!withinBudget) {
+                System.exit(1);
+            }
+        } else {
+            throw new IllegalArgumentException("Usage: train <archive> <classpath> | "
+                    + "measure <archive> <classpath> <report> <budget> <runs>");
+        }
+    }
+
+    private void train(Path archive, String classpath) throws Exception {
+        Files.createDirectories(archive.toAbsolutePath().getParent());
+        Files.deleteIfExists(archive);
+        if (!cdsSupported()) {
+            System.out.printf("Skipping CDS archive: JDK %d does not support -XX:ArchiveClassesAtExit (needs %d+)%n",
+                    Runtime.version().feature(), CDS_DYNAMIC_ARCHIVE_JDK);
+            return;
+        }
+
+        Sample sample = launch(classpath, Arrays.asList("-XX:ArchiveClassesAtExit=" + archive), FASTSTART_PROFILE);
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("Training run did not produce a CDS archive at " + archive);
+        }
+        System.out.printf("CDS archive written to %s (training run: %d ms to first transfer)%n",
+                archive, sample.timeToFirstTransferMillis);
+    }
+
+    private boolean measure(Path archive, String classpath, Path report, Path budget, int runs) throws Exception {
+        boolean cdsUsed = cdsSupported() && Files.exists(archive);
+        List<String> faststartJvmArgs = Collections.emptyList();
+        if (cdsUsed) {
+            faststartJvmArgs = Arrays.asList("-XX:SharedArchiveFile=" + archive);
+        } else {
+            System.out.println("No CDS archive available, measuring the faststart launch without it "
+                    + "and skipping its ratio limits");
+        }
+
+        List<Sample> defaultSamples = new ArrayList<>();
+        List<Sample> faststartSamples = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            defaultSamples.add(launch(classpath, Collections.emptyList(), null));
+            faststartSamples.add(launch(classpath, faststartJvmArgs, FASTSTART_PROFILE));
+        }
+
+        Properties results = new Properties();
+        record(results, DEFAULT_LAUNCH, defaultSamples);
+        record(results, FASTSTART_LAUNCH, faststartSamples);
+        results.setProperty(FASTSTART_LAUNCH + ".cds", String.valueOf(cdsUsed));
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        try (OutputStream out = new FileOutputStream(report.toFile())) {
+            results.store(out, "Median of " + runs + " launches");
+        }
+        System.out.println("Startup report written to " + report);
+
+        if (!Files.exists(budget)) {
+            return true;
+        }
+        Properties limits = new Properties();
+        try (InputStream in = new FileInputStream(budget.toFile())) {
+            limits.load(in);
+        }
+        boolean withinBudget = true;
+        for (String key : limits.stringPropertyNames()) {
+            withinBudget &= checkBudget(results, cdsUsed, key, limits.getProperty(key).trim());
+        }
+        return withinBudget;
+    }
+
+    private boolean checkBudget(Properties results, boolean cdsUsed, String key, String limit) {
+        int separator = key.lastIndexOf('.');
+        String measured = separator < 0 ? "" : key.substring(0, separator);
+        String kind = separator < 0 ? "" : key.substring(separator + 1);
+        if (!isKnownMetric(measured) || !(MAX.equals(kind) || MAX_RATIO_TO_DEFAULT.equals(kind))) {
+            System.err.printf("Unknown startup budget key %s%n", key);
+            return false;
+        }
+        if (!cdsUsed && MAX_RATIO_TO_DEFAULT.equals(kind) && measured.startsWith(FASTSTART_LAUNCH + ".")) {
+            System.out.printf("Skipping startup budget %s: faststart ran without a CDS archive%n", key);
+            return true;
+        }
+
+        String value = results.getProperty(measured);
+        if (value == null) {
+            System.out.printf("Skipping startup budget %s: %s was not measured on this host%n", key, measured);
+            return true;
+        }
+        double actual = Long.parseLong(value);
+        if (MAX_RATIO_TO_DEFAULT.equals(kind)) {
+            String baseline = results.getProperty(DEFAULT_LAUNCH + measured.substring(measured.indexOf('.')));
+            if (baseline == null) {
+                System.out.printf("Skipping startup budget %s: default launch was not measured on this host%n", key);
+                return true;
+            }
+            actual = actual / Long.parseLong(baseline);
+        }
+        if (actual > Double.parseDouble(limit)) {
+            System.err.printf("Startup regression: %s = %.2f exceeds budget %s%n", key, actual, limit);
+            return false;
+        }
+        System.out.printf("Startup budget %s = %.2f within %s%n", key, actual, limit);
+        return true;
+    }
+
+    private static boolean isKnownMetric(String measured) {
+        for (String launch : Arrays.asList(DEFAULT_LAUNCH, FASTSTART_LAUNCH)) {
+            for (String metric : Arrays.asList(TIME_TO_FIRST_TRANSFER, RESIDENT_MEMORY)) {
+                if (measured.equals(launch + "." + metric)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean cdsSupported() {
+        return Runtime.version().feature() >= CDS_DYNAMIC_ARCHIVE_JDK;
+    }
+
+    private static void record(Properties results, String name, List<Sample> samples) {
+        List<Long> times = new ArrayList<>();
+        List<Long> memory = new ArrayList<>();
+        for (Sample sample : samples) {
+            times.add(sample.timeToFirstTransferMillis);
+            memory.add(sample.residentMemoryKb);
+        }
+        results.setProperty(name + "." + TIME_TO_FIRST_TRANSFER, String.valueOf(median(times)));
+        String residentMemory = "unmeasured";
+        if (!memory.contains(UNMEASURED)) {
+            results.setProperty(name + "." + RESIDENT_MEMORY, String.valueOf(median(memory)));
+            residentMemory = median(memory) + " kB";
+        }
+        System.out.printf("%-10s time to first transfer %5d ms, resident memory %s%n",
+                name, median(times), residentMemory);
+    }
+
+    private Sample launch(String classpath, List<String> jvmArgs, String profile) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(MAIN_CLASS);
+        command.add("--server.port=" + port);
+        if (profile != null) {
+            command.add(profile);
+        }
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            firstTransfer(process, "http://localhost:" + port + "/v1/accounts");
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new Sample(elapsed, residentMemoryKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void firstTransfer(Process process, String accountsUrl) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (post(accountsUrl, "{\"accountId\":\"Id-from\",\"balance\":100}") != 201) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+        post(accountsUrl, "{\"accountId\":\"Id-to\",\"balance\":0}");
+        int status = post(accountsUrl + "/transfer", "{\"accountFromId\":\"Id-from\",\"accountToId\":\"Id-to\",\"amount\":10}");
+        if (status != 200) {
+            throw new IllegalStateException("First transfer failed with status " + status);
+        }
+    }
+
+    private int post(String url, String body) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long residentMemoryKb(long pid) throws IOException {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return UNMEASURED;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("[^0-9]", ""));
+            }
+        }
+        return UNMEASURED;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static class Sample {
+
+        private final long timeToFirstTransferMillis;
+
+        private final long residentMemoryKb;
+
+        private Sample(long timeToFirstTransferMillis, long residentMemoryKb) {
+            this.timeToFirstTransferMillis = timeToFirstTransferMillis;
+            this.residentMemoryKb = residentMemoryKb;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
@@ -11,9 +12,12 @@ import java.math.BigDecimal;
 
 import com.dws.challenge.domain.Account;
 import com.dws.challenge.domain.Transaction;
+import com.dws.challenge.repository.CachingAccountsRepository;
 import com.dws.challenge.service.AccountsService;
 import com.dws.challenge.service.NotificationService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +42,9 @@ class AccountsControllerTest {
   @Autowired
   private AccountsService accountsService;
 
+  @Autowired
+  private CachingAccountsRepository cachingAccountsRepository;
+
   @Autowired
   private WebApplicationContext webApplicationContext;
 
@@ -116,6 +123,24 @@ class AccountsControllerTest {
         content().string("{\"accountId\":\"" + uniqueAccountId + "\",\"balance\":123.45}"));
   }
 
+  @Test
+  void getAccountsCacheStats() throws Exception {
+    CacheStats before = cachingAccountsRepository.getCacheStats();
+    String uniqueAccountId = "Id-" + System.currentTimeMillis();
+    this.accountsService.createAccount(new Account(uniqueAccountId, new BigDecimal("10")));
+    this.mockMvc.perform(get("/v1/accounts/" + uniqueAccountId)).andExpect(status().isOk());
+
+    String response = this.mockMvc.perform(get("/v1/cache/accounts"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.size").value(1))
+      .andReturn().getResponse().getContentAsString();
+
+    JsonNode stats = objectMapper.readTree(response);
+    assertThat(stats.get("hitCount").asLong()).isGreaterThanOrEqualTo(before.hitCount() + 1);
+    assertThat(stats.get("missCount").asLong()).isEqualTo(before.missCount());
+    assertThat(stats.get("hitRate").asDouble()).isGreaterThan(0);
+  }
+
   @Test
   void transferAmount() throws Exception {
 
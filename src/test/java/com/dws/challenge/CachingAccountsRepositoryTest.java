@@ -0,0 +1,144 @@
+package com.dws.challenge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigDecimal;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.Transaction;
+import com.dws.challenge.exception.InsufficientFundsException;
+import com.dws.challenge.repository.CachingAccountsRepository;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CachingAccountsRepositoryTest {
+
+  private LatencySimulatingAccountsRepository store;
+
+  private CachingAccountsRepository accountsRepository;
+
+  @BeforeEach
+  void prepareRepository() {
+    this.store = new LatencySimulatingAccountsRepository(5);
+    this.accountsRepository = new CachingAccountsRepository(store, 100);
+  }
+
+  @Test
+  void getAccount_readsThroughOnce() {
+    Account account = new Account("Id-1", new BigDecimal(100));
+    this.store.createAccount(account);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(this.accountsRepository.getAccount("Id-1")).isSameAs(account);
+    }
+
+    assertThat(this.store.getLookups()).isEqualTo(1);
+    assertThat(this.accountsRepository.getCacheStats().hitCount()).isEqualTo(9);
+    assertThat(this.accountsRepository.getCacheStats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getAccount_unknownAccountIsNotCached() {
+    assertThat(this.accountsRepository.getAccount("Id-missing")).isNull();
+
+    Account account = new Account("Id-missing", new BigDecimal(10));
+    this.store.createAccount(account);
+
+    assertThat(this.accountsRepository.getAccount("Id-missing")).isSameAs(account);
+    assertThat(this.store.getLookups()).isEqualTo(2);
+  }
+
+  @Test
+  void balanceUpdates_writeThrough() {
+    Account account = new Account("Id-2", new BigDecimal(100));
+    this.accountsRepository.createAccount(account);
+
+    this.accountsRepository.withdrawAmount(account, new BigDecimal(30));
+    this.accountsRepository.depositAmount(account, new BigDecimal(5));
+
+    assertThat(this.accountsRepository.getAccount("Id-2").getBalance()).isEqualByComparingTo("75");
+    assertThat(this.store.getAccount("Id-2").getBalance()).isEqualByComparingTo("75");
+  }
+
+  @Test
+  void withdrawAmount_insufficientFundsLeavesBalance() {
+    Account account = new Account("Id-3", new BigDecimal(10));
+    this.accountsRepository.createAccount(account);
+
+    try {
+      this.accountsRepository.withdrawAmount(account, new BigDecimal(20));
+      fail("Should have failed when withdrawing more than balance");
+    } catch (InsufficientFundsException ex) {
+      assertThat(this.accountsRepository.getAccount("Id-3").getBalance()).isEqualByComparingTo("10");
+    }
+  }
+
+  @Test
+  void clearAccounts_evictsCachedAccounts() {
+    this.accountsRepository.createAccount(new Account("Id-4", new BigDecimal(10)));
+
+    this.accountsRepository.clearAccounts();
+
+    assertThat(this.accountsRepository.getAccount("Id-4")).isNull();
+  }
+
+  @Test
+  void cache_isBoundedAndKeepsHotAccounts() {
+    CachingAccountsRepository smallCache = new CachingAccountsRepository(new LatencySimulatingAccountsRepository(0), 10);
+    for (int i = 0; i < 10; i++) {
+      smallCache.createAccount(new Account("Id-warm-" + i, new BigDecimal(10)));
+    }
+    smallCache.createAccount(new Account("Id-hot", new BigDecimal(10)));
+    for (int i = 0; i < 20; i++) {
+      smallCache.getAccount("Id-hot");
+    }
+
+    for (int i = 0; i < 100; i++) {
+      smallCache.createAccount(new Account("Id-cold-" + i, new BigDecimal(10)));
+    }
+
+    assertThat(smallCache.getCachedAccountCount()).isLessThanOrEqualTo(10);
+    long hits = smallCache.getCacheStats().hitCount();
+    smallCache.getAccount("Id-hot");
+    assertThat(smallCache.getCacheStats().hitCount()).isEqualTo(hits + 1);
+  }
+
+  @Test
+  void transferAmount_looksUpEachAccountOnce() {
+    AccountsService accountsService = new AccountsService(this.store);
+    ReflectionTestUtils.setField(accountsService, "notificationService", Mockito.mock(NotificationService.class));
+
+    this.store.createAccount(new Account("Id-from", new BigDecimal(100)));
+    this.store.createAccount(new Account("Id-to", new BigDecimal(100)));
+
+    Transaction transaction = new Transaction("Id-from", "Id-to", new BigDecimal(10));
+    accountsService.transferAmount(transaction);
+    assertThat(this.store.getLookups()).isEqualTo(2);
+    accountsService.transferAmount(transaction);
+    assertThat(this.store.getLookups()).isEqualTo(4);
+
+    assertThat(this.store.getAccount("Id-from").getBalance()).isEqualByComparingTo("80");
+    assertThat(this.store.getAccount("Id-to").getBalance()).isEqualByComparingTo("120");
+  }
+
+  @Test
+  void transferAmount_servedFromCacheOnceWarm() {
+    AccountsService accountsService = new AccountsService(this.accountsRepository);
+    ReflectionTestUtils.setField(accountsService, "notificationService", Mockito.mock(NotificationService.class));
+
+    this.store.createAccount(new Account("Id-from", new BigDecimal(100)));
+    this.store.createAccount(new Account("Id-to", new BigDecimal(100)));
+
+    Transaction transaction = new Transaction("Id-from", "Id-to", new BigDecimal(10));
+    accountsService.transferAmount(transaction);
+    accountsService.transferAmount(transaction);
+
+    assertThat(this.store.getLookups()).isEqualTo(2);
+    assertThat(this.accountsRepository.getCacheStats().requestCount()).isEqualTo(4);
+  }
+}
@@ -0,0 +1,31 @@
+package com.dws.challenge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("faststart")
+class FastStartProfileTest {
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  @Test
+  void lazyInitializationIsEnabled() {
+    assertThat(applicationContext.getEnvironment().getProperty("spring.main.lazy-initialization", Boolean.class))
+      .isTrue();
+  }
+
+  @Test
+  void unusedAutoConfigurationIsExcluded() {
+    assertThat(applicationContext.containsBeanDefinition("applicationTaskExecutor")).isFalse();
+    assertThat(applicationContext.containsBeanDefinition("multipartResolver")).isFalse();
+    assertThat(applicationContext.containsBeanDefinition("restTemplateBuilder")).isFalse();
+  }
+
+}
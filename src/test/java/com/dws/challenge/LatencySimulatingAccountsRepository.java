@@ -0,0 +1,35 @@
+package com.dws.challenge;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.repository.AccountsRepositoryInMemory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for a database backed store: every lookup pays a fixed delay and is counted.
+ */
+class LatencySimulatingAccountsRepository extends AccountsRepositoryInMemory {
+
+  private final long latencyMillis;
+
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  LatencySimulatingAccountsRepository(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+  }
+
+  @Override
+  public Account getAccount(String accountId) {
+    lookups.incrementAndGet();
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return super.getAccount(accountId);
+  }
+
+  int getLookups() {
+    return lookups.get();
+  }
+}